@@ -4,6 +4,7 @@ package com.example.building;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Application class for the Building Temperature Control System.
@@ -11,6 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  */
 @SpringBootApplication // Marks this as a Spring Boot application
 @MapperScan("com.example.building.mapper") // Scans the specified package for MyBatis mapper interfaces
+@EnableScheduling // Runs @Scheduled tasks, such as retrying the search index load
 public class BuildingTempControlApplication {
     public static void main(String[] args) {
         // Run the Spring Boot application
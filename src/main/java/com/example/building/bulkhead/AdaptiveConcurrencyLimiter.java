@@ -0,0 +1,186 @@
+package com.example.building.bulkhead;
+
+import java.util.Arrays;
+
+/**
+ * Concurrency limit that adapts to observed latency.
+ * Latencies are averaged over windows of requests, leaving out the slowest tenth, and
+ * compared with the no-load latency, measured in windows where no two requests overlapped.
+ * A new limiter starts at its minimum to measure it, then doubles its limit after each
+ * normal window until the first slow one. From then on the limit shrinks by a tenth after
+ * a window whose average is well above the no-load latency and grows by one after a normal
+ * window. Slow windows never raise the reference, so under lasting overload the limit
+ * stays down; once the limit is back at its minimum, the windows there measure the
+ * no-load latency again and follow a backend that has become slower for good.
+ */
+public class AdaptiveConcurrencyLimiter {
+    // Factor applied to the limit after a slow window
+    private static final double BACKOFF_RATIO = 0.9;
+
+    // Windows measured at the minimum limit before a new limiter starts to grow
+    private static final int NO_LOAD_WINDOWS = 3;
+
+    // Weight of each later no-load window in the no-load latency
+    private static final double NO_LOAD_SMOOTHING = 0.2;
+
+    // Failed requests count as this multiple of the slowest normal latency
+    private static final double FAILURE_PENALTY = 10.0;
+
+    // Fewest samples in a window; larger limits use a window as large as the limit
+    private static final int MIN_WINDOW_SIZE = 10;
+
+    // Share of the slowest samples in a window left out of its average, e.g. GC pauses
+    private static final double OUTLIER_SHARE = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+
+    private double limit;
+    private boolean slowStart = true;
+    private int inFlight;
+    private double noLoadNanos;
+    private int noLoadWindows;
+    private final long[] windowNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowFailed;
+    private long accepted;
+    private long rejected;
+    private long shed;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (latencyTolerance < 1.0) {
+            throw new IllegalArgumentException("Latency tolerance must be at least 1.0");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = minLimit;
+        this.windowNanos = new long[Math.max(MIN_WINDOW_SIZE, maxLimit)];
+    }
+
+    /**
+     * Take a slot if one is free. Every successful call must be followed by
+     * {@link #release(long)}, {@link #releaseFailed(long)} or {@link #release()}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= getLimit()) {
+            rejected++;
+            return false;
+        }
+        inFlight++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        accepted++;
+        return true;
+    }
+
+    /**
+     * Free a slot without recording a latency sample, e.g. for a rejected client
+     * error whose latency says nothing about the load.
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    /**
+     * Free a slot and record the latency of the finished request.
+     */
+    public synchronized void release(long latencyNanos) {
+        inFlight--;
+        record(latencyNanos);
+    }
+
+    /**
+     * Free the slot of a failed request, e.g. a connection pool timeout, and record it as
+     * a very slow sample. A single failure is dropped with the window's outliers, while
+     * repeated failures shrink the limit. Before the no-load latency is known, failures
+     * are not recorded.
+     */
+    public synchronized void releaseFailed(long latencyNanos) {
+        inFlight--;
+        if (noLoadWindows == 0) {
+            return;
+        }
+        windowFailed = true;
+        long penalty = (long) (noLoadNanos * latencyTolerance * FAILURE_PENALTY);
+        record(Math.max(latencyNanos, penalty));
+    }
+
+    private void record(long latencyNanos) {
+        windowNanos[windowSamples++] = latencyNanos;
+        if (windowSamples < Math.max(MIN_WINDOW_SIZE, getLimit())) {
+            return;
+        }
+
+        double average = trimmedAverage();
+        boolean noLoad = windowMaxInFlight <= minLimit && !windowFailed;
+        if (noLoad) {
+            // Plain average over the first windows, then a moving average
+            noLoadWindows++;
+            double weight = Math.max(NO_LOAD_SMOOTHING, 1.0 / noLoadWindows);
+            noLoadNanos += (average - noLoadNanos) * weight;
+        }
+
+        if (noLoadWindows < NO_LOAD_WINDOWS) {
+            limit = minLimit;
+        } else if (!noLoad && average > noLoadNanos * latencyTolerance) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            slowStart = false;
+        } else {
+            limit = Math.min(maxLimit, slowStart ? limit * 2 : limit + 1);
+        }
+
+        windowSamples = 0;
+        windowMaxInFlight = inFlight;
+        windowFailed = false;
+    }
+
+    private double trimmedAverage() {
+        Arrays.sort(windowNanos, 0, windowSamples);
+        int kept = windowSamples - (int) (windowSamples * OUTLIER_SHARE);
+        long total = 0;
+        for (int i = 0; i < kept; i++) {
+            total += windowNanos[i];
+        }
+        return (double) total / kept;
+    }
+
+    /**
+     * Count a request turned away to protect a higher priority endpoint type.
+     */
+    public synchronized void recordShed() {
+        shed++;
+    }
+
+    /**
+     * Whether at least the given share of the maximum limit is in use.
+     * Based on the configured maximum, so it does not become more sensitive as the limit shrinks.
+     */
+    public synchronized boolean isBusy(double share) {
+        return inFlight >= maxLimit * share;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getAccepted() {
+        return accepted;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public synchronized long getShed() {
+        return shed;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.building.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method as limited by the concurrency bulkhead of the given endpoint type.
+ * Methods without this annotation are not limited.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    EndpointType value();
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.example.building.bulkhead;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the concurrency bulkhead to controller methods annotated with {@link Bulkhead}.
+ * A request over its endpoint type's limit is rejected with 429, and bulk requests are
+ * shed with 503 while reads are busy, both with a Retry-After header. Successful requests
+ * feed their latency to the limiter and server errors count as failures, such as a
+ * connection pool timeout surfacing as 500. Client errors are left out, as their fast
+ * responses say nothing about the load.
+ */
+@Component
+public class BulkheadInterceptor implements HandlerInterceptor {
+    private static final String LIMITER_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".start";
+
+    // Share of the maximum read concurrency in use above which bulk requests are shed
+    private static final double READ_BUSY_SHARE = 0.5;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Value("${bulkhead.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        Bulkhead bulkhead = ((HandlerMethod) handler).getMethodAnnotation(Bulkhead.class);
+        if (bulkhead == null) {
+            return true;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = bulkheadRegistry.limiter(bulkhead.value());
+        if (bulkhead.value() == EndpointType.BULK
+                && bulkheadRegistry.limiter(EndpointType.READ).isBusy(READ_BUSY_SHARE)) {
+            limiter.recordShed();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return false;
+        }
+        if (!limiter.tryAcquire()) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS);
+            return false;
+        }
+
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AdaptiveConcurrencyLimiter limiter = (AdaptiveConcurrencyLimiter) request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long latencyNanos = System.nanoTime() - (Long) request.getAttribute(START_ATTRIBUTE);
+        if (ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            limiter.releaseFailed(latencyNanos);
+        } else if (response.getStatus() >= HttpStatus.BAD_REQUEST.value()) {
+            limiter.release();
+        } else {
+            limiter.release(latencyNanos);
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status) {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+}
\ No newline at end of file
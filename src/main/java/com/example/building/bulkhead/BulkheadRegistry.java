@@ -0,0 +1,49 @@
+package com.example.building.bulkhead;
+
+import com.example.building.dto.BulkheadStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds one adaptive concurrency limiter per endpoint type.
+ */
+@Component
+public class BulkheadRegistry {
+    private final Map<EndpointType, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointType.class);
+
+    public BulkheadRegistry(
+            @Value("${bulkhead.read.max-concurrency:20}") int readMaxConcurrency,
+            @Value("${bulkhead.write.max-concurrency:5}") int writeMaxConcurrency,
+            @Value("${bulkhead.bulk.max-concurrency:2}") int bulkMaxConcurrency,
+            @Value("${bulkhead.latency-tolerance:2.0}") double latencyTolerance) {
+        limiters.put(EndpointType.READ, new AdaptiveConcurrencyLimiter(1, readMaxConcurrency, latencyTolerance));
+        limiters.put(EndpointType.WRITE, new AdaptiveConcurrencyLimiter(1, writeMaxConcurrency, latencyTolerance));
+        limiters.put(EndpointType.BULK, new AdaptiveConcurrencyLimiter(1, bulkMaxConcurrency, latencyTolerance));
+    }
+
+    public AdaptiveConcurrencyLimiter limiter(EndpointType type) {
+        return limiters.get(type);
+    }
+
+    /**
+     * Snapshot of limits and request counts for every endpoint type.
+     */
+    public Map<EndpointType, BulkheadStats> stats() {
+        Map<EndpointType, BulkheadStats> stats = new LinkedHashMap<>();
+        for (Map.Entry<EndpointType, AdaptiveConcurrencyLimiter> entry : limiters.entrySet()) {
+            AdaptiveConcurrencyLimiter limiter = entry.getValue();
+            BulkheadStats stat = new BulkheadStats();
+            stat.setLimit(limiter.getLimit());
+            stat.setInFlight(limiter.getInFlight());
+            stat.setAccepted(limiter.getAccepted());
+            stat.setRejected(limiter.getRejected());
+            stat.setShed(limiter.getShed());
+            stats.put(entry.getKey(), stat);
+        }
+        return stats;
+    }
+}
\ No newline at end of file
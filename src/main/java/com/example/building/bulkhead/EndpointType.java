@@ -0,0 +1,16 @@
+package com.example.building.bulkhead;
+
+/**
+ * Classes of endpoints that get their own concurrency limit,
+ * so that a surge in one class cannot starve the others.
+ */
+public enum EndpointType {
+    // Single building lookups and searches, served first under load
+    READ,
+
+    // Create, update and delete operations
+    WRITE,
+
+    // Operations returning every building, shed first under load
+    BULK
+}
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.example.building.controller;
 
+import com.example.building.bulkhead.Bulkhead;
+import com.example.building.bulkhead.EndpointType;
 import com.example.building.dto.BuildingRequest;
 import com.example.building.model.Building;
 import com.example.building.service.BuildingService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,12 +25,14 @@ public class BuildingController {
 
     @PostMapping
     @ApiOperation("Create a new building")
+    @Bulkhead(EndpointType.WRITE)
     public ResponseEntity<Building> createBuilding(@Valid @RequestBody BuildingRequest request) {
         return ResponseEntity.ok(buildingService.createBuilding(request));
     }
 
     @GetMapping("/{id}")
     @ApiOperation("Get building by ID")
+    @Bulkhead(EndpointType.READ)
     public ResponseEntity<Building> getBuilding(@PathVariable Long id) {
         Building building = buildingService.getBuilding(id);
         return building != null ? ResponseEntity.ok(building) : ResponseEntity.notFound().build();
@@ -35,12 +40,30 @@ public class BuildingController {
 
     @GetMapping
     @ApiOperation("Get all buildings")
+    @Bulkhead(EndpointType.BULK)
     public ResponseEntity<List<Building>> getAllBuildings() {
         return ResponseEntity.ok(buildingService.getAllBuildings());
     }
 
+    @GetMapping("/search")
+    @ApiOperation("Search buildings by name or location")
+    @Bulkhead(EndpointType.READ)
+    public ResponseEntity<List<Building>> searchBuildings(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Until the index is loaded, searches would miss existing buildings
+        if (!buildingService.isSearchIndexLoaded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(buildingService.searchBuildings(q, limit));
+    }
+
     @PutMapping("/{id}/temperature")
     @ApiOperation("Update building target temperature")
+    @Bulkhead(EndpointType.WRITE)
     public ResponseEntity<Building> updateTemperature(
             @PathVariable Long id,
             @RequestParam Double targetTemperature) {
@@ -50,6 +73,7 @@ public class BuildingController {
 
     @DeleteMapping("/{id}")
     @ApiOperation("Delete building")
+    @Bulkhead(EndpointType.WRITE)
     public ResponseEntity<Void> deleteBuilding(@PathVariable Long id) {
         buildingService.deleteBuilding(id);
         return ResponseEntity.ok().build();
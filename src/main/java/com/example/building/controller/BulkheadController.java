@@ -0,0 +1,29 @@
+package com.example.building.controller;
+
+import com.example.building.bulkhead.BulkheadRegistry;
+import com.example.building.bulkhead.EndpointType;
+import com.example.building.dto.BulkheadStats;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/bulkhead")
+@Api(tags = "Bulkhead Metrics API")
+public class BulkheadController {
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @GetMapping("/stats")
+    @ApiOperation("Get concurrency limits and rejection counts per endpoint type")
+    public ResponseEntity<Map<EndpointType, BulkheadStats>> getStats() {
+        return ResponseEntity.ok(bulkheadRegistry.stats());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.building.dto;
+
+import lombok.Data;
+
+@Data
+public class BulkheadStats {
+    // Current adaptive concurrency limit
+    private int limit;
+
+    // Requests currently being processed
+    private int inFlight;
+
+    // Requests let through since startup
+    private long accepted;
+
+    // Requests rejected with 429 because the limit was reached
+    private long rejected;
+
+    // Requests rejected with 503 to keep capacity for reads
+    private long shed;
+}
\ No newline at end of file
@@ -17,6 +17,14 @@ public interface BuildingMapper {
     @Select("SELECT * FROM building")
     List<Building> findAll();
 
+    @Select("SELECT id, name, location FROM building")
+    List<Building> findAllNames();
+
+    @Select("<script>SELECT * FROM building WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    List<Building> findByIds(@Param("ids") List<Long> ids);
+
     @Update("UPDATE building SET current_temperature = #{currentTemperature}, " +
             "target_temperature = #{targetTemperature}, status = #{status}, " +
             "last_updated = #{lastUpdated} WHERE id = #{id}")
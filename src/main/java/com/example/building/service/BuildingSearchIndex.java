@@ -0,0 +1,480 @@
+package com.example.building.service;
+
+import com.example.building.model.Building;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory search index over building name and location.
+ * Words are kept in a sorted map for prefix lookups and split into
+ * trigrams for fuzzy matching. Only building IDs and their words are
+ * stored; callers load the matching rows from the database.
+ */
+@Component
+public class BuildingSearchIndex {
+    // Length of the n-grams used for fuzzy matching
+    private static final int GRAM_SIZE = 3;
+
+    // Minimum trigram similarity for a word to count as a fuzzy match
+    private static final double MIN_FUZZY_SIMILARITY = 0.4;
+
+    // Scores per query word; an exact word beats a prefix, which beats a fuzzy match
+    private static final double EXACT_SCORE = 1.0;
+    private static final double PREFIX_SCORE = 0.75;
+    private static final double FUZZY_WEIGHT = 0.5;
+
+    private final Map<Long, Set<String>> wordsById = new HashMap<>();
+    private final NavigableMap<String, TreeSet<Long>> words = new TreeMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    private final Map<String, Integer> gramCounts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // IDs removed while a load is reading its source, so the load does not bring them back
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private volatile boolean loaded;
+
+    /**
+     * Merge the buildings from the given source into the index, unless an earlier load succeeded.
+     * The source is read without holding the index lock, so adds and removes go on meanwhile.
+     * Entries they add are kept over the source's copy, and buildings they remove are not put
+     * back. Only the ID, name and location of each building are read.
+     */
+    public synchronized void load(Supplier<? extends Collection<Building>> source) {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Collection<Building> all = source.get();
+            lock.writeLock().lock();
+            try {
+                for (Building building : all) {
+                    Long id = building.getId();
+                    if (id != null && !wordsById.containsKey(id) && !removedWhileLoading.contains(id)) {
+                        addInternal(building);
+                    }
+                }
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                removedWhileLoading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Whether a load has succeeded; until then the index only holds buildings added since startup.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Add a building to the index, replacing any previous entry with the same ID.
+     * Only the ID, name and location are read; the building itself is not kept.
+     */
+    public void add(Building building) {
+        if (building == null || building.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(building.getId());
+            addInternal(building);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a building from the index. Unknown IDs are ignored.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                removedWhileLoading.add(id);
+            }
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return wordsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the IDs of buildings whose name or location matches every query word, best matches first.
+     * Each query word scores against the indexed words as an exact match, a prefix match, or
+     * (when nothing starts with it) a fuzzy trigram match. Buildings are ranked by the sum of
+     * their scores over all query words, ties going to the lower ID. The limit is expected to
+     * be bounded by the caller.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> queryWords = tokenize(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<QueryWord> matched = new ArrayList<>(queryWords.size());
+            QueryWord rarest = null;
+            long rarestPostings = Long.MAX_VALUE;
+            double bestPossible = 0;
+            for (String text : queryWords) {
+                QueryWord queryWord = matchWords(text);
+                if (queryWord == null) {
+                    return Collections.emptyList();
+                }
+                matched.add(queryWord);
+                bestPossible += queryWord.bestScore();
+
+                long postings = queryWord.countPostings(rarestPostings);
+                if (postings < rarestPostings) {
+                    rarest = queryWord;
+                    rarestPostings = postings;
+                }
+            }
+
+            // Every result contains a match for the rarest query word, so scanning its buildings finds
+            // all of them. The scan runs in ID order, so it stops once the results all have the best
+            // possible score, as no later building can rank above them.
+            PriorityQueue<ScoredId> top = new PriorityQueue<>();
+            Iterator<Long> ids = rarest.postingsInIdOrder();
+            while (ids.hasNext()) {
+                Long id = ids.next();
+                double score = score(wordsById.get(id), matched);
+                if (score == 0) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(new ScoredId(id, score));
+                } else if (score > top.peek().score) {
+                    top.poll();
+                    top.add(new ScoredId(id, score));
+                }
+                if (top.size() == limit && top.peek().score >= bestPossible) {
+                    break;
+                }
+            }
+
+            List<ScoredId> ranked = new ArrayList<>(top);
+            Collections.sort(ranked, Collections.reverseOrder());
+            List<Long> result = new ArrayList<>(ranked.size());
+            for (ScoredId scored : ranked) {
+                result.add(scored.id);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed words matching a query word, or null when there are none.
+     * Prefix matches are kept as a view of the sorted word map rather than expanded.
+     */
+    private QueryWord matchWords(String text) {
+        NavigableMap<String, TreeSet<Long>> prefixed =
+                words.subMap(text, true, text + Character.MAX_VALUE, true);
+        if (!prefixed.isEmpty()) {
+            return new QueryWord(text, prefixed, null);
+        }
+        Map<String, Double> fuzzy = new HashMap<>();
+        matchFuzzy(text, fuzzy);
+        return fuzzy.isEmpty() ? null : new QueryWord(text, null, fuzzy);
+    }
+
+    private void matchFuzzy(String queryWord, Map<String, Double> matches) {
+        Set<String> queryGrams = grams(queryWord);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<String> gramWords = wordsByGram.get(gram);
+            if (gramWords != null) {
+                for (String word : gramWords) {
+                    sharedGrams.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        for (Map.Entry<String, Integer> entry : sharedGrams.entrySet()) {
+            // Dice coefficient, so long words do not match everything that shares a few grams
+            int wordGrams = gramCounts.get(entry.getKey());
+            double similarity = 2.0 * entry.getValue() / (queryGrams.size() + wordGrams);
+            if (similarity >= MIN_FUZZY_SIMILARITY) {
+                matches.put(entry.getKey(), similarity * FUZZY_WEIGHT);
+            }
+        }
+    }
+
+    /**
+     * Sum of the best score per query word, or 0 when a query word has no match.
+     */
+    private double score(Set<String> buildingWords, List<QueryWord> queryWords) {
+        double total = 0;
+        for (QueryWord queryWord : queryWords) {
+            double best = 0;
+            for (String word : buildingWords) {
+                best = Math.max(best, queryWord.score(word));
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private void addInternal(Building building) {
+        Set<String> buildingWords = new HashSet<>();
+        buildingWords.addAll(tokenize(building.getName()));
+        buildingWords.addAll(tokenize(building.getLocation()));
+
+        wordsById.put(building.getId(), buildingWords);
+        for (String word : buildingWords) {
+            TreeSet<Long> ids = words.get(word);
+            if (ids == null) {
+                // Sorted IDs, so a search can scan buildings in ID order and stop early
+                ids = new TreeSet<>();
+                words.put(word, ids);
+                Set<String> wordGrams = grams(word);
+                gramCounts.put(word, wordGrams.size());
+                for (String gram : wordGrams) {
+                    wordsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(word);
+                }
+            }
+            ids.add(building.getId());
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> buildingWords = wordsById.remove(id);
+        if (buildingWords == null) {
+            return;
+        }
+        for (String word : buildingWords) {
+            Set<Long> ids = words.get(word);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                // Last building using this word, drop it from the gram lists too
+                words.remove(word);
+                gramCounts.remove(word);
+                for (String gram : grams(word)) {
+                    Set<String> gramWords = wordsByGram.get(gram);
+                    gramWords.remove(word);
+                    if (gramWords.isEmpty()) {
+                        wordsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static Set<String> grams(String word) {
+        // Pad the word so short words and word edges still produce grams
+        String padded = "$" + word + "$";
+        Set<String> grams = new LinkedHashSet<>();
+        if (padded.length() <= GRAM_SIZE) {
+            grams.add(padded);
+            return grams;
+        }
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * A query word and the indexed words it matches, either by prefix or by fuzzy match.
+     * A building is scored against its own words, so a prefix shared by many indexed
+     * words only has to be expanded for the rarest query word.
+     */
+    private class QueryWord {
+        private final String text;
+        private final NavigableMap<String, TreeSet<Long>> prefixed;
+        private final Map<String, Double> fuzzy;
+
+        QueryWord(String text, NavigableMap<String, TreeSet<Long>> prefixed, Map<String, Double> fuzzy) {
+            this.text = text;
+            this.prefixed = prefixed;
+            this.fuzzy = fuzzy;
+        }
+
+        double score(String word) {
+            if (fuzzy != null) {
+                Double score = fuzzy.get(word);
+                return score != null ? score : 0;
+            }
+            if (word.equals(text)) {
+                return EXACT_SCORE;
+            }
+            return word.startsWith(text) ? PREFIX_SCORE : 0;
+        }
+
+        double bestScore() {
+            if (fuzzy != null) {
+                return Collections.max(fuzzy.values());
+            }
+            return prefixed.containsKey(text) ? EXACT_SCORE : PREFIX_SCORE;
+        }
+
+        /**
+         * Number of buildings per matched word added up, stopping once it reaches the given bound.
+         */
+        long countPostings(long bound) {
+            long postings = 0;
+            for (String word : matchedWords()) {
+                postings += words.get(word).size();
+                if (postings >= bound) {
+                    break;
+                }
+            }
+            return postings;
+        }
+
+        /**
+         * Buildings of all matched words in ascending ID order, without duplicates.
+         */
+        Iterator<Long> postingsInIdOrder() {
+            List<Iterator<Long>> postings = new ArrayList<>();
+            for (String word : matchedWords()) {
+                postings.add(words.get(word).iterator());
+            }
+            return postings.size() == 1 ? postings.get(0) : new MergingIterator(postings);
+        }
+
+        private Collection<String> matchedWords() {
+            return fuzzy != null ? fuzzy.keySet() : prefixed.keySet();
+        }
+    }
+
+    /**
+     * Building ID with its score, ordered from worst to best match.
+     */
+    private static class ScoredId implements Comparable<ScoredId> {
+        private final Long id;
+        private final double score;
+
+        ScoredId(Long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(ScoredId other) {
+            int byScore = Double.compare(score, other.score);
+            // Among equal scores the higher ID ranks worse
+            return byScore != 0 ? byScore : other.id.compareTo(id);
+        }
+    }
+
+    /**
+     * Merges ascending ID iterators into one ascending iterator, dropping duplicates.
+     * IDs are produced lazily, so an early stop does not pay for the whole union.
+     */
+    private static class MergingIterator implements Iterator<Long> {
+        private final PriorityQueue<Head> heads = new PriorityQueue<>();
+        private Long last;
+
+        MergingIterator(List<Iterator<Long>> iterators) {
+            for (Iterator<Long> iterator : iterators) {
+                if (iterator.hasNext()) {
+                    heads.add(new Head(iterator.next(), iterator));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!heads.isEmpty() && heads.peek().id.equals(last)) {
+                advance(heads.poll());
+            }
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Long next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Head head = heads.poll();
+            last = head.id;
+            advance(head);
+            return last;
+        }
+
+        private void advance(Head head) {
+            if (head.rest.hasNext()) {
+                heads.add(new Head(head.rest.next(), head.rest));
+            }
+        }
+
+        private static class Head implements Comparable<Head> {
+            private final Long id;
+            private final Iterator<Long> rest;
+
+            Head(Long id, Iterator<Long> rest) {
+                this.id = id;
+                this.rest = rest;
+            }
+
+            @Override
+            public int compareTo(Head other) {
+                return id.compareTo(other.id);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -3,16 +3,59 @@ package com.example.building.service;
 import com.example.building.dto.BuildingRequest;
 import com.example.building.mapper.BuildingMapper;
 import com.example.building.model.Building;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class BuildingService {
+    private static final Logger log = LoggerFactory.getLogger(BuildingService.class);
+
+    // Most search results returned at once, which also bounds the ID list sent to the database
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     @Autowired
     private BuildingMapper buildingMapper;
 
+    @Autowired
+    private BuildingSearchIndex searchIndex;
+
+    /**
+     * Load the names and locations of all buildings into the search index once the
+     * application is ready. If the database is unreachable the load is retried on a
+     * fixed delay until it succeeds; creates and deletes meanwhile are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search-index.retry-delay-ms:30000}",
+            fixedDelayString = "${search-index.retry-delay-ms:30000}")
+    public void loadSearchIndex() {
+        if (searchIndex.isLoaded()) {
+            return;
+        }
+        try {
+            searchIndex.load(buildingMapper::findAllNames);
+            log.info("Search index loaded with {} buildings", searchIndex.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not load buildings into the search index, retrying later", e);
+        }
+    }
+
+    public boolean isSearchIndexLoaded() {
+        return searchIndex.isLoaded();
+    }
+
     public Building createBuilding(BuildingRequest request) {
         Building building = new Building();
         building.setName(request.getName());
@@ -24,6 +67,7 @@ public class BuildingService {
         building.setCreateTime(LocalDateTime.now());
         
         buildingMapper.insert(building);
+        searchIndex.add(building);
         return building;
     }
 
@@ -35,6 +79,32 @@ public class BuildingService {
         return buildingMapper.findAll();
     }
 
+    /**
+     * Search buildings by name or location. The index only ranks IDs;
+     * the rows themselves are read from the database in ranked order.
+     * The limit is capped at {@link #MAX_SEARCH_LIMIT}.
+     */
+    public List<Building> searchBuildings(String query, int limit) {
+        List<Long> ids = searchIndex.search(query, Math.min(limit, MAX_SEARCH_LIMIT));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Building> byId = new HashMap<>();
+        for (Building building : buildingMapper.findByIds(ids)) {
+            byId.put(building.getId(), building);
+        }
+        List<Building> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Building building = byId.get(id);
+            // Skip rows deleted since they were indexed
+            if (building != null) {
+                result.add(building);
+            }
+        }
+        return result;
+    }
+
     public Building updateTemperature(Long id, Double targetTemperature) {
         Building building = buildingMapper.findById(id);
         if (building != null) {
@@ -48,6 +118,7 @@ public class BuildingService {
 
     public void deleteBuilding(Long id) {
         buildingMapper.deleteById(id);
+        searchIndex.remove(id);
     }
 
     private String determineStatus(Double currentTemp, Double targetTemp) {
@@ -0,0 +1,269 @@
+package com.example.building.bulkhead;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter class.
+ * Tests slot accounting and how the limit reacts to latency.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 1_000_000L;
+
+    // Database connections shared by the simulated requests, so more concurrent requests queue
+    private static final int CONNECTIONS = 3;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Set up a limiter allowing between 1 and 4 concurrent requests before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(1, 4, 2.0);
+    }
+
+    /**
+     * Test acquiring slots up to the limit of a new limiter.
+     * Verifies that:
+     * 1. A new limiter starts at its minimum limit
+     * 2. The next request is rejected and counted
+     * 3. Releasing a slot lets a new request in
+     */
+    @Test
+    void tryAcquire_RejectsOverLimit() {
+        assertEquals(1, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(1, limiter.getAccepted());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(FAST);
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    /**
+     * Test the limit growing once the no-load latency is measured.
+     * Verifies that the limit stays at its minimum for the first windows, then grows to the maximum.
+     */
+    @Test
+    void release_SlowStartGrowsToMaximum() {
+        run(limiter, 4, 29, inFlight -> FAST);
+        assertEquals(1, limiter.getLimit());
+
+        run(limiter, 4, 100, inFlight -> FAST);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    /**
+     * Test traffic that overloads the database from the start.
+     * Verifies that the limit settles where requests barely queue for a connection,
+     * even though the latency never drops while the limit is full.
+     */
+    @Test
+    void release_StartingOverloadedKeepsLimitDown() {
+        AdaptiveConcurrencyLimiter reads = new AdaptiveConcurrencyLimiter(1, 50, 2.0);
+
+        run(reads, 50, 20_000, AdaptiveConcurrencyLimiterTest::queued);
+
+        assertTrue(reads.getLimit() <= 2 * CONNECTIONS + 1, "limit " + reads.getLimit());
+    }
+
+    /**
+     * Test traffic that overloads the database after running normally.
+     * Verifies that the limit comes down and stays down while the overload lasts.
+     */
+    @Test
+    void release_BecomingOverloadedKeepsLimitDown() {
+        AdaptiveConcurrencyLimiter reads = new AdaptiveConcurrencyLimiter(1, 50, 2.0);
+        run(reads, 50, 1000, inFlight -> FAST);
+        assertEquals(50, reads.getLimit());
+
+        run(reads, 50, 20_000, AdaptiveConcurrencyLimiterTest::queued);
+
+        assertTrue(reads.getLimit() <= 2 * CONNECTIONS + 1, "limit " + reads.getLimit());
+    }
+
+    /**
+     * Test the limit recovering once the overload is over.
+     * Verifies that fast requests under load grow the limit back to the maximum.
+     */
+    @Test
+    void release_FastRequestsGrowLimit() {
+        AdaptiveConcurrencyLimiter reads = new AdaptiveConcurrencyLimiter(1, 50, 2.0);
+        run(reads, 50, 5000, AdaptiveConcurrencyLimiterTest::queued);
+        assertTrue(reads.getLimit() <= 2 * CONNECTIONS + 1);
+
+        run(reads, 50, 5000, inFlight -> FAST);
+
+        assertEquals(50, reads.getLimit());
+    }
+
+    /**
+     * Test a backend that becomes slower for good, however few requests run at once.
+     * Verifies that the limit first shrinks, then takes the new latency as normal and grows back.
+     */
+    @Test
+    void release_LastingSlowdownRecovers() {
+        run(limiter, 4, 100, inFlight -> FAST);
+        assertEquals(4, limiter.getLimit());
+
+        run(limiter, 4, 50, inFlight -> 10 * FAST);
+        assertTrue(limiter.getLimit() < 4);
+
+        run(limiter, 4, 2000, inFlight -> 10 * FAST);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    /**
+     * Test repeated failures such as connection pool timeouts.
+     * Verifies that they shrink the limit to its minimum, however fast they fail.
+     */
+    @Test
+    void releaseFailed_RepeatedFailuresShrinkLimit() {
+        run(limiter, 4, 100, inFlight -> FAST);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.releaseFailed(FAST);
+        }
+
+        assertEquals(1, limiter.getLimit());
+    }
+
+    /**
+     * Test an occasional failure among successful requests.
+     * Verifies that it does not lower the limit.
+     */
+    @Test
+    void releaseFailed_OccasionalFailureKeepsLimit() {
+        run(limiter, 4, 100, inFlight -> FAST);
+
+        for (int i = 1; i <= 1000; i++) {
+            assertTrue(limiter.tryAcquire());
+            if (i % 20 == 0) {
+                limiter.releaseFailed(FAST);
+            } else {
+                limiter.release(FAST);
+            }
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    /**
+     * Test single slow requests among fast ones.
+     * Verifies that an occasional outlier, such as a GC pause, does not lower the limit.
+     */
+    @Test
+    void release_OutliersKeepLimit() {
+        int[] count = {0};
+
+        run(limiter, 4, 1000, inFlight -> ++count[0] % 10 == 0 ? 1000 * FAST : FAST);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    /**
+     * Test steady traffic mixing fast and slow requests.
+     * Verifies that requests of very different latency in the same limiter keep the limit
+     * at its maximum and never reject a request once it has grown.
+     */
+    @Test
+    void release_MixedLatencyKeepsLimit() {
+        AdaptiveConcurrencyLimiter reads = new AdaptiveConcurrencyLimiter(1, 50, 2.0);
+        Random random = new Random(42);
+        run(reads, 10, 1000, inFlight -> FAST);
+        long rejected = reads.getRejected();
+
+        run(reads, 10, 20_000, inFlight -> random.nextBoolean() ? 50_000L : FAST);
+
+        assertEquals(50, reads.getLimit());
+        assertEquals(rejected, reads.getRejected());
+    }
+
+    /**
+     * Test steady traffic with jittery latency.
+     * Verifies that lognormally distributed latency keeps the limit at its maximum
+     * and never rejects a request once it has grown.
+     */
+    @Test
+    void release_JitteryLatencyKeepsLimit() {
+        AdaptiveConcurrencyLimiter reads = new AdaptiveConcurrencyLimiter(1, 50, 2.0);
+        Random random = new Random(42);
+        run(reads, 10, 1000, inFlight -> FAST);
+        long rejected = reads.getRejected();
+
+        run(reads, 10, 20_000, inFlight -> (long) (FAST * Math.exp(0.5 * random.nextGaussian())));
+
+        assertEquals(50, reads.getLimit());
+        assertEquals(rejected, reads.getRejected());
+    }
+
+    /**
+     * Test releasing a slot without a latency sample.
+     * Verifies that the slot is freed.
+     */
+    @Test
+    void release_WithoutSample() {
+        limiter.tryAcquire();
+
+        limiter.release();
+
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Test the busy check.
+     * Verifies that it is relative to the maximum limit, not the current one.
+     */
+    @Test
+    void isBusy_UsesMaximumLimit() {
+        limiter.tryAcquire();
+        assertEquals(limiter.getLimit(), limiter.getInFlight());
+
+        assertFalse(limiter.isBusy(0.5));
+    }
+
+    /**
+     * Test creating a limiter with invalid bounds.
+     * Verifies that an IllegalArgumentException is thrown.
+     */
+    @Test
+    void constructor_InvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(0, 4, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(5, 4, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 4, 0.5));
+    }
+
+    /**
+     * Latency of a request sharing the database connections with the others in flight.
+     */
+    private static long queued(int inFlight) {
+        return FAST * ((inFlight + CONNECTIONS - 1) / CONNECTIONS);
+    }
+
+    /**
+     * Keep up to the given number of requests in flight, as far as the limit allows, and
+     * complete one at a time with the latency for the concurrency it ran at.
+     */
+    private void run(AdaptiveConcurrencyLimiter target, int demand, int requests, IntToLongFunction latency) {
+        for (int i = 0; i < requests; i++) {
+            while (target.getInFlight() < demand && target.tryAcquire()) {
+                // Take every slot the current limit allows
+            }
+            target.release(latency.applyAsLong(target.getInFlight()));
+        }
+    }
+}
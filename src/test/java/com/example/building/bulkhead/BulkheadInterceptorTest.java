@@ -0,0 +1,193 @@
+package com.example.building.bulkhead;
+
+import com.example.building.controller.BuildingController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BulkheadInterceptor class.
+ * Tests limiting, load shedding and slot release around controller methods.
+ */
+class BulkheadInterceptorTest {
+
+    private BulkheadRegistry bulkheadRegistry;
+    private BulkheadInterceptor bulkheadInterceptor;
+
+    private HandlerMethod readHandler;
+    private HandlerMethod bulkHandler;
+
+    /**
+     * Set up an interceptor allowing up to 2 reads, 1 write and 1 bulk request before each test case.
+     */
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        bulkheadRegistry = new BulkheadRegistry(2, 1, 1, 2.0);
+        bulkheadInterceptor = new BulkheadInterceptor();
+        ReflectionTestUtils.setField(bulkheadInterceptor, "bulkheadRegistry", bulkheadRegistry);
+        ReflectionTestUtils.setField(bulkheadInterceptor, "retryAfterSeconds", 3);
+
+        BuildingController controller = new BuildingController();
+        readHandler = new HandlerMethod(controller, "getBuilding", Long.class);
+        bulkHandler = new HandlerMethod(controller, "getAllBuildings");
+    }
+
+    /**
+     * Test a request within the limit.
+     * Verifies that:
+     * 1. The request is let through
+     * 2. Its slot is released once the request completes
+     */
+    @Test
+    void preHandle_WithinLimit() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(bulkheadInterceptor.preHandle(request, response, readHandler));
+        assertEquals(1, bulkheadRegistry.limiter(EndpointType.READ).getInFlight());
+
+        bulkheadInterceptor.afterCompletion(request, response, readHandler, null);
+
+        assertEquals(0, bulkheadRegistry.limiter(EndpointType.READ).getInFlight());
+    }
+
+    /**
+     * Test a request over the limit of its endpoint type.
+     * Verifies that:
+     * 1. The request is rejected with HTTP 429 TOO MANY REQUESTS
+     * 2. The Retry-After header is set
+     * 3. The rejection is counted
+     */
+    @Test
+    void preHandle_OverLimit() {
+        completeRequests(readHandler, 50, HttpStatus.OK);
+        assertTrue(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), readHandler));
+        assertTrue(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), readHandler));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), response, readHandler));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, bulkheadRegistry.stats().get(EndpointType.READ).getRejected());
+    }
+
+    /**
+     * Test shedding bulk requests while reads are busy.
+     * Verifies that:
+     * 1. The bulk request is rejected with HTTP 503 SERVICE UNAVAILABLE
+     * 2. The Retry-After header is set
+     * 3. The shed request is counted
+     */
+    @Test
+    void preHandle_ShedsBulkWhileReadsBusy() {
+        assertTrue(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), readHandler));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), response, bulkHandler));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, bulkheadRegistry.stats().get(EndpointType.BULK).getShed());
+    }
+
+    /**
+     * Test that shedding bulk requests depends on the configured read capacity.
+     * Verifies that one read in flight does not shed bulk requests when reads may use 4 slots,
+     * while two reads do.
+     */
+    @Test
+    void preHandle_ShedsBulkRelativeToReadCapacity() {
+        ReflectionTestUtils.setField(bulkheadInterceptor, "bulkheadRegistry", new BulkheadRegistry(4, 1, 1, 2.0));
+        completeRequests(readHandler, 50, HttpStatus.OK);
+        assertTrue(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), readHandler));
+
+        MockHttpServletRequest bulkRequest = new MockHttpServletRequest();
+        MockHttpServletResponse bulkResponse = new MockHttpServletResponse();
+        assertTrue(bulkheadInterceptor.preHandle(bulkRequest, bulkResponse, bulkHandler));
+        bulkheadInterceptor.afterCompletion(bulkRequest, bulkResponse, bulkHandler, null);
+
+        assertTrue(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), readHandler));
+
+        assertFalse(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), bulkHandler));
+    }
+
+    /**
+     * Test completing requests with a client error response.
+     * Verifies that their slots are still released and the limit is kept.
+     */
+    @Test
+    void afterCompletion_ClientErrorResponse() {
+        completeRequests(readHandler, 50, HttpStatus.OK);
+
+        completeRequests(readHandler, 100, HttpStatus.NOT_FOUND);
+
+        assertEquals(0, bulkheadRegistry.limiter(EndpointType.READ).getInFlight());
+        assertEquals(2, bulkheadRegistry.limiter(EndpointType.READ).getLimit());
+    }
+
+    /**
+     * Test completing requests with a server error response, such as a connection pool timeout.
+     * Verifies that their slots are released and repeated errors shrink the limit.
+     */
+    @Test
+    void afterCompletion_ServerErrorResponse() {
+        completeRequests(readHandler, 50, HttpStatus.OK);
+
+        completeRequests(readHandler, 100, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertEquals(0, bulkheadRegistry.limiter(EndpointType.READ).getInFlight());
+        assertEquals(1, bulkheadRegistry.limiter(EndpointType.READ).getLimit());
+    }
+
+    /**
+     * Test completing requests whose handler threw an exception.
+     * Verifies that they count as failures even though no error status was set yet.
+     */
+    @Test
+    void afterCompletion_Exception() {
+        completeRequests(readHandler, 50, HttpStatus.OK);
+
+        for (int i = 0; i < 100; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertTrue(bulkheadInterceptor.preHandle(request, response, readHandler));
+            bulkheadInterceptor.afterCompletion(request, response, readHandler, new IllegalStateException());
+        }
+
+        assertEquals(1, bulkheadRegistry.limiter(EndpointType.READ).getLimit());
+    }
+
+    /**
+     * Test a handler without the Bulkhead annotation.
+     * Verifies that the request is let through without taking a slot.
+     */
+    @Test
+    void preHandle_UnannotatedHandler() throws NoSuchMethodException {
+        HandlerMethod handler = new HandlerMethod(new Object(), "toString");
+
+        assertTrue(bulkheadInterceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler));
+        assertEquals(0, bulkheadRegistry.limiter(EndpointType.READ).getInFlight());
+    }
+
+    /**
+     * Run requests one after another through the interceptor, completing each with the given status.
+     * Starting with successful ones grows a new limiter to its maximum.
+     */
+    private void completeRequests(HandlerMethod handler, int count, HttpStatus status) {
+        for (int i = 0; i < count; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertTrue(bulkheadInterceptor.preHandle(request, response, handler));
+            response.setStatus(status.value());
+            bulkheadInterceptor.afterCompletion(request, response, handler, null);
+        }
+    }
+}
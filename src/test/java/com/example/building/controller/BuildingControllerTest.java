@@ -145,6 +145,55 @@ class BuildingControllerTest {
         verify(buildingService).getAllBuildings();
     }
 
+    /**
+     * Test searching buildings by name or location.
+     * Verifies that:
+     * 1. The controller returns HTTP 200 OK
+     * 2. The response body contains the matching buildings
+     * 3. The building service's searchBuildings method is called with the query and limit
+     */
+    @Test
+    void searchBuildings_Success() {
+        List<Building> buildings = Arrays.asList(testBuilding);
+        when(buildingService.isSearchIndexLoaded()).thenReturn(true);
+        when(buildingService.searchBuildings("test", 20)).thenReturn(buildings);
+
+        ResponseEntity<List<Building>> response = buildingController.searchBuildings("test", 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().size());
+        assertEquals(testBuilding.getId(), response.getBody().get(0).getId());
+
+        verify(buildingService).searchBuildings("test", 20);
+    }
+
+    /**
+     * Test searching with a limit below one.
+     * Verifies that the controller returns HTTP 400 Bad Request without searching.
+     */
+    @Test
+    void searchBuildings_InvalidLimit() {
+        ResponseEntity<List<Building>> response = buildingController.searchBuildings("test", 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(buildingService, never()).searchBuildings(anyString(), anyInt());
+    }
+
+    /**
+     * Test searching before the search index is loaded.
+     * Verifies that the controller returns HTTP 503 Service Unavailable without searching.
+     */
+    @Test
+    void searchBuildings_IndexNotLoaded() {
+        when(buildingService.isSearchIndexLoaded()).thenReturn(false);
+
+        ResponseEntity<List<Building>> response = buildingController.searchBuildings("test", 20);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        verify(buildingService, never()).searchBuildings(anyString(), anyInt());
+    }
+
     /**
      * Test updating a building's target temperature.
      * Verifies that:
@@ -0,0 +1,218 @@
+package com.example.building.service;
+
+import com.example.building.model.Building;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BuildingSearchIndex class.
+ * Tests prefix, fuzzy and ranked matching as well as index maintenance.
+ */
+class BuildingSearchIndexTest {
+
+    private BuildingSearchIndex searchIndex;
+
+    /**
+     * Set up test data before each test case.
+     * Creates an index holding the sample buildings from init.sql.
+     */
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BuildingSearchIndex();
+        searchIndex.load(() -> Arrays.asList(
+                building(1L, "Office Building A", "New York"),
+                building(2L, "Shopping Mall B", "Los Angeles"),
+                building(3L, "Residential Complex C", "Chicago")));
+    }
+
+    /**
+     * Test matching a word prefix in the building name.
+     * Verifies that only the building whose name starts with the prefix is returned.
+     */
+    @Test
+    void search_PrefixOfName() {
+        assertEquals(Arrays.asList(2L), searchIndex.search("shop", 10));
+    }
+
+    /**
+     * Test matching the building location case-insensitively.
+     * Verifies that the building in that location is returned.
+     */
+    @Test
+    void search_Location() {
+        assertEquals(Arrays.asList(3L), searchIndex.search("CHICAGO", 10));
+    }
+
+    /**
+     * Test matching a misspelled word.
+     * Verifies that the trigram fuzzy match still finds the building.
+     */
+    @Test
+    void search_Fuzzy() {
+        assertEquals(Arrays.asList(3L), searchIndex.search("residentail", 10));
+    }
+
+    /**
+     * Test ranking of matches.
+     * Verifies that an exact word match ranks above a prefix match.
+     */
+    @Test
+    void search_RanksExactAbovePrefix() {
+        searchIndex.add(building(4L, "Offices North", "Boston"));
+        searchIndex.add(building(5L, "Office Tower", "Boston"));
+
+        assertEquals(Arrays.asList(1L, 5L, 4L), searchIndex.search("office", 10));
+    }
+
+    /**
+     * Test a query with several words.
+     * Verifies that only buildings matching every query word are returned.
+     */
+    @Test
+    void search_MatchesEveryWord() {
+        searchIndex.add(building(4L, "Office Tower", "Boston"));
+
+        assertEquals(Arrays.asList(1L), searchIndex.search("office new", 10));
+        assertTrue(searchIndex.search("office paris", 10).isEmpty());
+    }
+
+    /**
+     * Test finding the only building matching both of two common words.
+     * Verifies that it is returned first even though many buildings with lower IDs match one word.
+     */
+    @Test
+    void search_CommonWordsIntersection() {
+        List<Building> all = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            all.add(building(id, "Office " + id, "New York"));
+        }
+        for (long id = 1501; id <= 3000; id++) {
+            all.add(building(id, "Mall " + id, "Chicago"));
+        }
+        all.add(building(3001L, "Office HQ", "Chicago"));
+        searchIndex = new BuildingSearchIndex();
+        searchIndex.load(() -> all);
+
+        assertEquals(Arrays.asList(3001L), searchIndex.search("office chicago", 5));
+    }
+
+    /**
+     * Test a short prefix shared by many indexed words next to a more specific word.
+     * Verifies that the building matching both is found, however many words start with the prefix.
+     */
+    @Test
+    void search_PrefixSharedByManyWords() {
+        for (long id = 4; id < 204; id++) {
+            searchIndex.add(building(id, "Sample" + id, "Boston"));
+        }
+        searchIndex.add(building(204L, "Central Plaza", "Main Street"));
+
+        assertEquals(Arrays.asList(204L), searchIndex.search("main s", 10));
+        assertEquals(Arrays.asList(204L), searchIndex.search("main st", 10));
+    }
+
+    /**
+     * Test the result limit.
+     * Verifies that no more than the requested number of buildings is returned, lowest IDs first.
+     */
+    @Test
+    void search_RespectsLimit() {
+        searchIndex.add(building(4L, "Office Tower", "Boston"));
+
+        assertEquals(Arrays.asList(1L), searchIndex.search("office", 1));
+    }
+
+    /**
+     * Test searching with a blank query.
+     * Verifies that nothing is returned.
+     */
+    @Test
+    void search_BlankQuery() {
+        assertTrue(searchIndex.search("  ", 10).isEmpty());
+        assertTrue(searchIndex.search(null, 10).isEmpty());
+    }
+
+    /**
+     * Test removing a building.
+     * Verifies that the removed building no longer matches and others are unaffected.
+     */
+    @Test
+    void remove_NoLongerMatches() {
+        searchIndex.remove(2L);
+
+        assertTrue(searchIndex.search("shopping", 10).isEmpty());
+        assertEquals(2, searchIndex.size());
+    }
+
+    /**
+     * Test loading while buildings are added and removed.
+     * Verifies that the load keeps entries added meanwhile and does not bring back removed ones.
+     */
+    @Test
+    void load_KeepsWritesDuringLoad() {
+        BuildingSearchIndex index = new BuildingSearchIndex();
+        index.add(building(1L, "Office Building A", "New York"));
+
+        index.load(() -> {
+            // Writes that land while the source is being read
+            index.add(building(4L, "Office Tower", "Boston"));
+            index.remove(1L);
+            return Arrays.asList(
+                    building(1L, "Office Building A", "New York"),
+                    building(2L, "Shopping Mall B", "Los Angeles"));
+        });
+
+        assertTrue(index.isLoaded());
+        assertEquals(2, index.size());
+        assertEquals(Arrays.asList(4L), index.search("office", 10));
+        assertEquals(Arrays.asList(2L), index.search("shopping", 10));
+    }
+
+    /**
+     * Test loading again after a failed load.
+     * Verifies that a failed load leaves the index unloaded and a later load succeeds once.
+     */
+    @Test
+    void load_RetriedAfterFailure() {
+        BuildingSearchIndex index = new BuildingSearchIndex();
+
+        assertThrows(IllegalStateException.class, () -> index.load(() -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+        assertFalse(index.isLoaded());
+
+        index.load(() -> Arrays.asList(building(1L, "Office Building A", "New York")));
+        index.load(() -> Arrays.asList(building(2L, "Shopping Mall B", "Los Angeles")));
+
+        assertTrue(index.isLoaded());
+        assertEquals(Arrays.asList(1L), index.search("office", 10));
+        assertTrue(index.search("shopping", 10).isEmpty());
+    }
+
+    /**
+     * Test re-adding a building with the same ID.
+     * Verifies that the old name is replaced rather than kept alongside the new one.
+     */
+    @Test
+    void add_ReplacesExistingEntry() {
+        searchIndex.add(building(1L, "Warehouse D", "New York"));
+
+        assertTrue(searchIndex.search("office", 10).isEmpty());
+        assertEquals(Arrays.asList(1L), searchIndex.search("warehouse", 10));
+        assertEquals(3, searchIndex.size());
+    }
+
+    private Building building(Long id, String name, String location) {
+        Building building = new Building();
+        building.setId(id);
+        building.setName(name);
+        building.setLocation(location);
+        return building;
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -15,6 +17,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -26,6 +29,9 @@ class BuildingServiceTest {
     @Mock
     private BuildingMapper buildingMapper;
 
+    @Spy
+    private BuildingSearchIndex searchIndex = new BuildingSearchIndex();
+
     @InjectMocks
     private BuildingService buildingService;
 
@@ -83,6 +89,29 @@ class BuildingServiceTest {
         verify(buildingMapper).insert(any(Building.class));
     }
 
+    /**
+     * Test that a created building becomes searchable.
+     * Verifies that:
+     * 1. The building is added to the search index
+     * 2. A search by name prefix returns it
+     */
+    @Test
+    void createBuilding_IndexedForSearch() {
+        when(buildingMapper.insert(any(Building.class))).thenAnswer(invocation -> {
+            invocation.<Building>getArgument(0).setId(7L);
+            return 1;
+        });
+
+        Building created = buildingService.createBuilding(testRequest);
+        when(buildingMapper.findByIds(Arrays.asList(7L))).thenReturn(Arrays.asList(created));
+
+        List<Building> result = buildingService.searchBuildings("test bui", 10);
+
+        assertEquals(1, result.size());
+        assertEquals(7L, result.get(0).getId());
+        verify(searchIndex).add(any(Building.class));
+    }
+
     /**
      * Test retrieving an existing building by ID.
      * Verifies that:
@@ -194,6 +223,94 @@ class BuildingServiceTest {
         verify(buildingMapper).deleteById(1L);
     }
 
+    /**
+     * Test that a deleted building is no longer searchable.
+     * Verifies that:
+     * 1. The building is removed from the search index
+     * 2. A search by name no longer returns it
+     */
+    @Test
+    void deleteBuilding_RemovedFromSearch() {
+        searchIndex.add(testBuilding);
+
+        buildingService.deleteBuilding(1L);
+
+        assertTrue(buildingService.searchBuildings("Test Building", 10).isEmpty());
+        verify(searchIndex).remove(1L);
+        verify(buildingMapper, never()).findByIds(anyList());
+    }
+
+    /**
+     * Test that search results are read from the database in ranked order.
+     * Verifies that:
+     * 1. Rows are returned in the order ranked by the index, not the mapper's order
+     * 2. IDs whose rows are gone are skipped
+     */
+    @Test
+    void searchBuildings_LoadsRowsInRankedOrder() {
+        Building office = otherBuilding(2L, "Test Office");
+        searchIndex.add(testBuilding);
+        searchIndex.add(office);
+        searchIndex.add(otherBuilding(3L, "Test Tower"));
+        when(buildingMapper.findByIds(Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(office, testBuilding));
+
+        List<Building> result = buildingService.searchBuildings("test", 10);
+
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals(2L, result.get(1).getId());
+    }
+
+    /**
+     * Test that the search limit is capped.
+     * Verifies that the index is asked for at most MAX_SEARCH_LIMIT results.
+     */
+    @Test
+    void searchBuildings_CapsLimit() {
+        buildingService.searchBuildings("test", Integer.MAX_VALUE);
+
+        verify(searchIndex).search("test", BuildingService.MAX_SEARCH_LIMIT);
+    }
+
+    /**
+     * Test loading the search index once the application is ready.
+     * Verifies that all buildings returned by the mapper are indexed.
+     */
+    @Test
+    void loadSearchIndex_LoadsAllBuildings() {
+        when(buildingMapper.findAllNames()).thenReturn(Arrays.asList(testBuilding));
+
+        buildingService.loadSearchIndex();
+
+        assertTrue(buildingService.isSearchIndexLoaded());
+        assertEquals(1, searchIndex.size());
+        assertEquals(Arrays.asList(1L), searchIndex.search("location", 10));
+    }
+
+    /**
+     * Test loading the search index while the database is unreachable.
+     * Verifies that:
+     * 1. The error is not propagated and the index stays unloaded
+     * 2. The next scheduled attempt loads the index
+     * 3. Once loaded, later attempts do not query the database again
+     */
+    @Test
+    void loadSearchIndex_RetriedAfterDatabaseFailure() {
+        when(buildingMapper.findAllNames())
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(Arrays.asList(testBuilding));
+
+        assertDoesNotThrow(() -> buildingService.loadSearchIndex());
+        assertFalse(buildingService.isSearchIndexLoaded());
+
+        buildingService.loadSearchIndex();
+        buildingService.loadSearchIndex();
+
+        assertTrue(buildingService.isSearchIndexLoaded());
+        assertEquals(1, searchIndex.size());
+        verify(buildingMapper, times(2)).findAllNames();
+    }
+
     /**
      * Test status determination when current temperature equals target.
      * Verifies that status is set to "MAINTAINING" when temperatures match.
@@ -235,4 +352,12 @@ class BuildingServiceTest {
 
         assertEquals("COOLING", result.getStatus());
     }
+
+    private Building otherBuilding(Long id, String name) {
+        Building building = new Building();
+        building.setId(id);
+        building.setName(name);
+        building.setLocation("Elsewhere");
+        return building;
+    }
 }